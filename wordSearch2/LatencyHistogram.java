@@ -0,0 +1,124 @@
+package finalProject.wordSearch2;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A class representing a thread-safe histogram of latencies in nanoseconds.
+ * Values below 128 are counted exactly. Larger values are counted in buckets that split every
+ * power of two into 128 steps, so a reported percentile is never more than 1% above the true value.
+ */
+public class LatencyHistogram {
+	private static final int SUB_BUCKET_BITS = 7;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	// One exact range below SUB_BUCKETS, then one range per power of two up to 2^62
+	private static final int BUCKETS = SUB_BUCKETS + (63 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+	private final AtomicLongArray COUNTS = new AtomicLongArray(BUCKETS);
+	private final AtomicLong TOTAL = new AtomicLong();
+	private final AtomicLong SUM = new AtomicLong();
+	private final AtomicLong MIN = new AtomicLong(Long.MAX_VALUE);
+	private final AtomicLong MAX = new AtomicLong();
+
+	/**
+	 * Records a single latency.
+	 *
+	 * @param nanos the latency in nanoseconds, negative values are recorded as 0
+	 */
+	public void record(long nanos) {
+	    long value = Math.max(0, nanos);
+	    COUNTS.incrementAndGet(bucketOf(value));
+	    TOTAL.incrementAndGet();
+	    SUM.addAndGet(value);
+	    MIN.accumulateAndGet(value, Math::min);
+	    MAX.accumulateAndGet(value, Math::max);
+	}
+
+	/**
+	 * Finds the bucket that counts a value.
+	 *
+	 * @param value the non-negative value
+	 * @return the index of the bucket
+	 */
+	private static int bucketOf(long value) {
+	    if (value < SUB_BUCKETS) {
+	        return (int) value;
+	    }
+	    // Keep the top SUB_BUCKET_BITS + 1 bits of the value, the highest of which is always set
+	    int exponent = 63 - Long.numberOfLeadingZeros(value);
+	    int shift = exponent - SUB_BUCKET_BITS;
+	    int subBucket = (int) (value >>> shift) - SUB_BUCKETS;
+	    return SUB_BUCKETS + shift * SUB_BUCKETS + subBucket;
+	}
+
+	/**
+	 * Finds the highest value counted by a bucket.
+	 *
+	 * @param bucket the index of the bucket
+	 * @return the highest value that falls into the bucket
+	 */
+	private static long highestValueOf(int bucket) {
+	    if (bucket < SUB_BUCKETS) {
+	        return bucket;
+	    }
+	    int shift = bucket / SUB_BUCKETS - 1;
+	    long subBucket = bucket % SUB_BUCKETS + SUB_BUCKETS;
+	    return ((subBucket + 1) << shift) - 1;
+	}
+
+	/**
+	 * Finds the latency at a percentile.
+	 *
+	 * @param percentile the percentile between 0 and 100, for example 99.9
+	 * @return the latency in nanoseconds at or below which the percentile of recorded values fall, or 0 if nothing was recorded
+	 * @throws IllegalArgumentException if the percentile is not between 0 and 100
+	 */
+	public long percentile(double percentile) throws IllegalArgumentException {
+	    if (percentile < 0 || percentile > 100) {
+	        throw new IllegalArgumentException("Percentile must be between 0 and 100");
+	    }
+	    long total = TOTAL.get();
+	    if (total == 0) {
+	        return 0;
+	    }
+	    long target = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+	    long seen = 0;
+	    for (int i = 0; i < BUCKETS; i++) {
+	        seen += COUNTS.get(i);
+	        if (seen >= target) {
+	            // The bucket bound can overshoot the largest value actually recorded
+	            return Math.min(highestValueOf(i), MAX.get());
+	        }
+	    }
+	    return MAX.get();
+	}
+
+	/**
+	 * @return the number of recorded values
+	 */
+	public long count() {
+	    return TOTAL.get();
+	}
+
+	/**
+	 * @return the smallest recorded value, or 0 if nothing was recorded
+	 */
+	public long min() {
+	    return TOTAL.get() == 0 ? 0 : MIN.get();
+	}
+
+	/**
+	 * @return the largest recorded value, or 0 if nothing was recorded
+	 */
+	public long max() {
+	    return MAX.get();
+	}
+
+	/**
+	 * @return the mean of the recorded values, or 0 if nothing was recorded
+	 */
+	public double mean() {
+	    long total = TOTAL.get();
+	    return total == 0 ? 0 : (double) SUM.get() / total;
+	}
+}
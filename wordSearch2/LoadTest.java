@@ -0,0 +1,414 @@
+package finalProject.wordSearch2;
+
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A class representing a load generator for the Word Search 2 solvers.
+ * Worker threads build a solver for a generated board and dictionary and run one of the search
+ * methods, either as fast as they can or at a fixed arrival rate. Latency is recorded in a
+ * {@link LatencyHistogram} and, at a fixed arrival rate, is measured from when a request was due
+ * to start so that a slow solver can't hide the requests it delayed. The results are written as JSON.
+ *
+ * Run with options of the form --name=value, for example:
+ * java finalProject.wordSearch2.LoadTest --method=dfsTrie --threads=8 --rate=2000 --duration=30 --output=report.json
+ */
+public class LoadTest {
+	/**
+	 * The options of a load test run and their defaults.
+	 */
+	public static final class Options {
+	    public String method = "dfsTrie"; // backtrackingTrie, dfsTrie or dfsSet
+	    public int threads = Runtime.getRuntime().availableProcessors();
+	    public double rate = 0; // Requests per second across all threads, 0 runs each thread as fast as it can
+	    public double warmupSeconds = 5;
+	    public double durationSeconds = 30;
+	    public int rows = 4;
+	    public int cols = 4;
+	    public int alphabetSize = 26; // The board and words use the first alphabetSize lowercase letters
+	    public int words = 50;
+	    public int minWordLength = 3;
+	    public int maxWordLength = 8;
+	    public double presentWordRatio = 0.5; // The share of each dictionary that is traced from its board
+	    public int pool = 64; // The number of board and dictionary pairs generated before the run
+	    public long seed = 42;
+	    public String output; // The report file, the report is printed when it is null
+
+	    /**
+	     * Reads options of the form --name=value.
+	     *
+	     * @param args the command line arguments
+	     * @return the options
+	     * @throws IllegalArgumentException if an option is unknown or its value is invalid
+	     */
+	    public static Options parse(String[] args) throws IllegalArgumentException {
+	        Options options = new Options();
+	        for (String arg : args) {
+	            int equals = arg.indexOf('=');
+	            if (!arg.startsWith("--") || equals < 0) {
+	                throw new IllegalArgumentException("Options must be of the form --name=value: " + arg);
+	            }
+	            String name = arg.substring(2, equals);
+	            String value = arg.substring(equals + 1);
+	            try {
+	                switch (name) {
+	                    case "method": options.method = value; break;
+	                    case "threads": options.threads = Integer.parseInt(value); break;
+	                    case "rate": options.rate = Double.parseDouble(value); break;
+	                    case "warmup": options.warmupSeconds = Double.parseDouble(value); break;
+	                    case "duration": options.durationSeconds = Double.parseDouble(value); break;
+	                    case "rows": options.rows = Integer.parseInt(value); break;
+	                    case "cols": options.cols = Integer.parseInt(value); break;
+	                    case "alphabet": options.alphabetSize = Integer.parseInt(value); break;
+	                    case "words": options.words = Integer.parseInt(value); break;
+	                    case "min-length": options.minWordLength = Integer.parseInt(value); break;
+	                    case "max-length": options.maxWordLength = Integer.parseInt(value); break;
+	                    case "present": options.presentWordRatio = Double.parseDouble(value); break;
+	                    case "pool": options.pool = Integer.parseInt(value); break;
+	                    case "seed": options.seed = Long.parseLong(value); break;
+	                    case "output": options.output = value; break;
+	                    default: throw new IllegalArgumentException("Unknown option: " + name);
+	                }
+	            } catch (NumberFormatException e) {
+	                throw new IllegalArgumentException("Invalid value for " + name + ": " + value);
+	            }
+	        }
+	        options.validate();
+	        return options;
+	    }
+
+	    /**
+	     * Checks that the options describe a run that can be generated.
+	     *
+	     * @throws IllegalArgumentException if a value is out of range
+	     */
+	    void validate() throws IllegalArgumentException {
+	        if (!Arrays.asList("backtrackingTrie", "dfsTrie", "dfsSet").contains(method)) {
+	            throw new IllegalArgumentException("Method must be backtrackingTrie, dfsTrie or dfsSet");
+	        }
+	        if (threads <= 0 || rows <= 0 || cols <= 0 || words <= 0 || pool <= 0) {
+	            throw new IllegalArgumentException("Threads, rows, cols, words and pool must be positive");
+	        }
+	        // NaN and Infinity pass the range checks but can't be scheduled or written as JSON
+	        if (!Double.isFinite(rate) || !Double.isFinite(warmupSeconds) || !Double.isFinite(durationSeconds)) {
+	            throw new IllegalArgumentException("Rate, warmup and duration must be finite numbers");
+	        }
+	        if (rate < 0 || warmupSeconds < 0 || durationSeconds <= 0) {
+	            throw new IllegalArgumentException("Rate and warmup may not be negative and duration must be positive");
+	        }
+	        if (alphabetSize < 1 || alphabetSize > 26) {
+	            throw new IllegalArgumentException("Alphabet size must be between 1 and 26");
+	        }
+	        if (minWordLength < 1 || maxWordLength < minWordLength) {
+	            throw new IllegalArgumentException("Word lengths must be positive and min-length may not exceed max-length");
+	        }
+	        if (!(presentWordRatio >= 0 && presentWordRatio <= 1)) {
+	            throw new IllegalArgumentException("Present word ratio must be between 0 and 1");
+	        }
+	    }
+	}
+
+	private final Options OPTIONS;
+	private final char[][][] BOARDS;
+	private final String[][] DICTIONARIES;
+
+	/**
+	 * Constructor for the LoadTest class. Generates every board and dictionary up front so that
+	 * generating them isn't part of the measured latency.
+	 *
+	 * @param options the options of the run
+	 * @throws IllegalArgumentException if the options are invalid
+	 */
+	public LoadTest(Options options) throws IllegalArgumentException {
+	    options.validate();
+	    OPTIONS = options;
+	    BOARDS = new char[options.pool][][];
+	    DICTIONARIES = new String[options.pool][];
+
+	    Random random = new Random(options.seed);
+	    for (int i = 0; i < options.pool; i++) {
+	        BOARDS[i] = generateBoard(random);
+	        DICTIONARIES[i] = generateDictionary(random, BOARDS[i]);
+	        if (DICTIONARIES[i].length == 0) {
+	            throw new IllegalArgumentException("No words could be generated, try a larger board, alphabet or word length range");
+	        }
+	    }
+	}
+
+	/**
+	 * Generates a board of random letters.
+	 *
+	 * @param random the source of randomness
+	 * @return the 2D character array representing the board
+	 */
+	private char[][] generateBoard(Random random) {
+	    char[][] board = new char[OPTIONS.rows][OPTIONS.cols];
+	    for (int i = 0; i < OPTIONS.rows; i++) {
+	        for (int j = 0; j < OPTIONS.cols; j++) {
+	            board[i][j] = (char) ('a' + random.nextInt(OPTIONS.alphabetSize));
+	        }
+	    }
+	    return board;
+	}
+
+	/**
+	 * Generates a dictionary of unique words, some of them traced along paths of the board so they are found.
+	 * The dictionary may come out smaller than requested if the alphabet and word lengths allow too few words.
+	 *
+	 * @param random the source of randomness
+	 * @param board the board the dictionary is searched against
+	 * @return the array of words
+	 */
+	private String[] generateDictionary(Random random, char[][] board) {
+	    Set<String> words = new LinkedHashSet<>();
+	    int present = (int) Math.round(OPTIONS.words * OPTIONS.presentWordRatio);
+	    // Give up after a bounded number of attempts so tiny alphabets can't loop forever
+	    for (int attempt = 0; words.size() < OPTIONS.words && attempt < OPTIONS.words * 100; attempt++) {
+	        int length = OPTIONS.minWordLength + random.nextInt(OPTIONS.maxWordLength - OPTIONS.minWordLength + 1);
+	        String word = words.size() < present ? tracePath(random, board, length) : randomWord(random, length);
+	        if (word != null) {
+	            words.add(word);
+	        }
+	    }
+	    return words.toArray(new String[0]);
+	}
+
+	/**
+	 * Reads a word along a random path of adjacent, unvisited cells.
+	 *
+	 * @param random the source of randomness
+	 * @param board the board to trace the path on
+	 * @param length the length of the word
+	 * @return the word, or null if the path got stuck before reaching the length
+	 */
+	private static String tracePath(Random random, char[][] board, int length) {
+	    int[][] steps = {{1, 0}, {-1, 0}, {0, 1}, {0, -1}};
+	    boolean[][] visited = new boolean[board.length][board[0].length];
+	    int i = random.nextInt(board.length);
+	    int j = random.nextInt(board[0].length);
+	    StringBuilder word = new StringBuilder();
+	    while (true) {
+	        visited[i][j] = true;
+	        word.append(board[i][j]);
+	        if (word.length() == length) {
+	            return word.toString();
+	        }
+	        // Pick a random unvisited neighbour
+	        List<int[]> next = new ArrayList<>();
+	        for (int[] step : steps) {
+	            int ni = i + step[0];
+	            int nj = j + step[1];
+	            if (ni >= 0 && ni < board.length && nj >= 0 && nj < board[0].length && !visited[ni][nj]) {
+	                next.add(new int[] {ni, nj});
+	            }
+	        }
+	        if (next.isEmpty()) {
+	            return null;
+	        }
+	        int[] cell = next.get(random.nextInt(next.size()));
+	        i = cell[0];
+	        j = cell[1];
+	    }
+	}
+
+	/**
+	 * Generates a word of random letters.
+	 *
+	 * @param random the source of randomness
+	 * @param length the length of the word
+	 * @return the word
+	 */
+	private String randomWord(Random random, int length) {
+	    StringBuilder word = new StringBuilder();
+	    for (int k = 0; k < length; k++) {
+	        word.append((char) ('a' + random.nextInt(OPTIONS.alphabetSize)));
+	    }
+	    return word.toString();
+	}
+
+	/**
+	 * Builds a solver and runs the configured search method, as a request to a service would.
+	 *
+	 * @param request the index of the board and dictionary in the pool
+	 * @return the number of words found
+	 */
+	private int solve(int request) {
+	    WordSearch2 ws = new WordSearch2(BOARDS[request], DICTIONARIES[request]);
+	    switch (OPTIONS.method) {
+	        case "backtrackingTrie": return ws.findWordsBackTrackingWithTrie().size();
+	        case "dfsSet": return ws.findWordsDFSWithSet().size();
+	        default: return ws.findWordsDFSWithTrie().size();
+	    }
+	}
+
+	/**
+	 * Runs the warmup and then the measured part of the load test.
+	 *
+	 * @return the report of the measured part
+	 * @throws InterruptedException if the calling thread is interrupted while waiting for the workers
+	 */
+	public Report run() throws InterruptedException {
+	    LatencyHistogram histogram = new LatencyHistogram();
+	    AtomicLong errors = new AtomicLong();
+	    AtomicLong wordsFound = new AtomicLong();
+
+	    long start = System.nanoTime();
+	    long measureStart = start + (long) (OPTIONS.warmupSeconds * 1e9);
+	    long end = measureStart + (long) (OPTIONS.durationSeconds * 1e9);
+	    // Each thread takes an equal share of the arrival rate, offset so their requests interleave
+	    long interval = OPTIONS.rate > 0 ? (long) (OPTIONS.threads * 1e9 / OPTIONS.rate) : 0;
+
+	    Thread[] workers = new Thread[OPTIONS.threads];
+	    for (int t = 0; t < OPTIONS.threads; t++) {
+	        final int thread = t;
+	        workers[t] = new Thread(() -> {
+	            long due = start + (interval * thread) / OPTIONS.threads;
+	            for (int request = thread; ; request += OPTIONS.threads) {
+	                if (interval > 0) {
+	                    // Wait for the request to be due; a late thread starts straight away and the delay counts as latency
+	                    while (System.nanoTime() < due) {
+	                        LockSupport.parkNanos(due - System.nanoTime());
+	                    }
+	                } else {
+	                    due = System.nanoTime();
+	                }
+	                if (due >= end) {
+	                    return;
+	                }
+	                try {
+	                    wordsFound.addAndGet(solve(request % BOARDS.length));
+	                } catch (RuntimeException e) {
+	                    if (due >= measureStart) {
+	                        errors.incrementAndGet();
+	                    }
+	                }
+	                if (due >= measureStart) {
+	                    histogram.record(System.nanoTime() - due);
+	                }
+	                due += interval;
+	            }
+	        }, "load-test-" + t);
+	    }
+
+	    // Wait for the warmup to finish before sampling the garbage collectors
+	    for (Thread worker : workers) {
+	        worker.start();
+	    }
+	    long gcCountBefore = 0;
+	    long gcTimeBefore = 0;
+	    long wait = measureStart - System.nanoTime();
+	    if (wait > 0) {
+	        TimeUnit.NANOSECONDS.sleep(wait);
+	    }
+	    for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+	        gcCountBefore += Math.max(0, gc.getCollectionCount());
+	        gcTimeBefore += Math.max(0, gc.getCollectionTime());
+	    }
+	    for (Thread worker : workers) {
+	        worker.join();
+	    }
+	    long elapsed = System.nanoTime() - measureStart;
+	    long gcCount = -gcCountBefore;
+	    long gcTime = -gcTimeBefore;
+	    for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+	        gcCount += Math.max(0, gc.getCollectionCount());
+	        gcTime += Math.max(0, gc.getCollectionTime());
+	    }
+
+	    return new Report(OPTIONS, histogram, errors.get(), wordsFound.get(), elapsed, gcCount, gcTime);
+	}
+
+	/**
+	 * A class representing the results of a load test run.
+	 */
+	public static final class Report {
+	    public final Options options;
+	    public final LatencyHistogram latency;
+	    public final long errors;
+	    public final long wordsFound; // Includes the warmup, a quick check that the dictionaries produce hits
+	    public final long elapsedNanos;
+	    public final long gcCount;
+	    public final long gcTimeMillis; // The collectors' accumulated collection time, close to the pause time for stop-the-world collectors
+
+	    Report(Options options, LatencyHistogram latency, long errors, long wordsFound, long elapsedNanos, long gcCount, long gcTimeMillis) {
+	        this.options = options;
+	        this.latency = latency;
+	        this.errors = errors;
+	        this.wordsFound = wordsFound;
+	        this.elapsedNanos = elapsedNanos;
+	        this.gcCount = gcCount;
+	        this.gcTimeMillis = gcTimeMillis;
+	    }
+
+	    /**
+	     * @return the number of completed requests per second during the measured part of the run
+	     */
+	    public double throughput() {
+	        return elapsedNanos == 0 ? 0 : latency.count() / (elapsedNanos / 1e9);
+	    }
+
+	    /**
+	     * Formats the report as a JSON object so runs can be compared by other tools.
+	     *
+	     * @return the JSON text of the report
+	     */
+	    public String toJson() {
+	        StringBuilder json = new StringBuilder("{\n");
+	        json.append("  \"method\": \"").append(options.method).append("\",\n");
+	        json.append("  \"threads\": ").append(options.threads).append(",\n");
+	        json.append("  \"targetRate\": ").append(options.rate).append(",\n");
+	        json.append("  \"warmupSeconds\": ").append(options.warmupSeconds).append(",\n");
+	        json.append("  \"durationSeconds\": ").append(options.durationSeconds).append(",\n");
+	        json.append("  \"board\": {\"rows\": ").append(options.rows)
+	            .append(", \"cols\": ").append(options.cols)
+	            .append(", \"alphabetSize\": ").append(options.alphabetSize).append("},\n");
+	        json.append("  \"dictionary\": {\"words\": ").append(options.words)
+	            .append(", \"minWordLength\": ").append(options.minWordLength)
+	            .append(", \"maxWordLength\": ").append(options.maxWordLength)
+	            .append(", \"presentWordRatio\": ").append(options.presentWordRatio).append("},\n");
+	        json.append("  \"pool\": ").append(options.pool).append(",\n");
+	        json.append("  \"seed\": ").append(options.seed).append(",\n");
+	        json.append("  \"requests\": ").append(latency.count()).append(",\n");
+	        json.append("  \"errors\": ").append(errors).append(",\n");
+	        json.append("  \"wordsFound\": ").append(wordsFound).append(",\n");
+	        json.append("  \"elapsedSeconds\": ").append(elapsedNanos / 1e9).append(",\n");
+	        json.append("  \"throughput\": ").append(throughput()).append(",\n");
+	        json.append("  \"latencyNanos\": {")
+	            .append("\"min\": ").append(latency.min())
+	            .append(", \"mean\": ").append(latency.mean())
+	            .append(", \"p50\": ").append(latency.percentile(50))
+	            .append(", \"p90\": ").append(latency.percentile(90))
+	            .append(", \"p99\": ").append(latency.percentile(99))
+	            .append(", \"p999\": ").append(latency.percentile(99.9))
+	            .append(", \"max\": ").append(latency.max()).append("},\n");
+	        json.append("  \"gc\": {\"count\": ").append(gcCount)
+	            .append(", \"timeMillis\": ").append(gcTimeMillis).append("}\n");
+	        return json.append("}\n").toString();
+	    }
+	}
+
+	/**
+	 * Runs a load test from the command line and prints or writes its JSON report.
+	 *
+	 * @param args options of the form --name=value
+	 * @throws IOException if the report file cannot be written
+	 * @throws InterruptedException if the run is interrupted
+	 */
+	public static void main(String[] args) throws IOException, InterruptedException {
+	    Options options = Options.parse(args);
+	    Report report = new LoadTest(options).run();
+	    if (options.output == null) {
+	        System.out.print(report.toJson());
+	    } else {
+	        Files.write(Paths.get(options.output), report.toJson().getBytes(StandardCharsets.UTF_8));
+	    }
+	}
+}
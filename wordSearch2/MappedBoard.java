@@ -0,0 +1,151 @@
+package finalProject.wordSearch2;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A class representing a board stored in a memory-mapped text file.
+ * Each row of the board is one line of lowercase letters terminated by '\n' or "\r\n",
+ * the same terminator being used for every row.
+ */
+class MappedBoard {
+    // A single mapping is limited to Integer.MAX_VALUE bytes, so the file is mapped in segments of whole rows
+    private final MappedByteBuffer[] segments;
+    private final int rowsPerSegment;
+    private final long stride; // The number of bytes in one row including its line terminator
+    final int rows;
+    final int cols;
+
+    /**
+     * Constructor for the MappedBoard class.
+     *
+     * @param file the path of the board file
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if the file is not an m x n board
+     */
+    public MappedBoard(Path file) throws IOException {
+        this(file, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Constructor for the MappedBoard class that maps the file in segments of at most the given size.
+     * Each segment still holds at least one row.
+     *
+     * @param file the path of the board file
+     * @param segmentBytes the largest number of bytes mapped in one segment, at most Integer.MAX_VALUE
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if the file is not an m x n board
+     */
+    MappedBoard(Path file, int segmentBytes) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size == 0) {
+                throw new IllegalArgumentException("Invalid board or words array");
+            }
+
+            // The first line terminator gives the number of columns and whether the file uses "\r\n"
+            long firstLineEnd = findLineEnd(channel, size);
+            boolean crlf = firstLineEnd < size && firstLineEnd > 0 && readByte(channel, firstLineEnd - 1) == '\r';
+            int terminatorLength = crlf ? 2 : 1;
+            long rowLength = crlf ? firstLineEnd - 1 : firstLineEnd;
+            if (rowLength == 0 || rowLength > Integer.MAX_VALUE - 2) {
+                throw new IllegalArgumentException("Board needs to have m x n dimension. Ensure all rows are of equal length.");
+            }
+            cols = (int) rowLength;
+            stride = rowLength + terminatorLength;
+
+            // Allow the last row to be missing its line terminator
+            long rowCount = (size + terminatorLength) / stride;
+            if (size != rowCount * stride && size != rowCount * stride - terminatorLength || rowCount > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Board needs to have m x n dimension. Ensure all rows are of equal length.");
+            }
+            rows = (int) rowCount;
+
+            // Map the file in segments that each hold a whole number of rows
+            rowsPerSegment = (int) Math.max(1, segmentBytes / stride);
+            int segmentCount = (rows + rowsPerSegment - 1) / rowsPerSegment;
+            segments = new MappedByteBuffer[segmentCount];
+            for (int s = 0; s < segmentCount; s++) {
+                long start = (long) s * rowsPerSegment * stride;
+                long length = Math.min((long) rowsPerSegment * stride, size - start);
+                segments[s] = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+            }
+        }
+
+        // A file of the right size can still have rows of the wrong length, so every row must end where expected
+        for (int i = 0; i < rows; i++) {
+            MappedByteBuffer segment = segments[i / rowsPerSegment];
+            int terminator = (int) ((i % rowsPerSegment) * stride) + cols;
+            if (terminator >= segment.limit()) {
+                // Only the last row may be missing its line terminator
+                continue;
+            }
+            boolean aligned = stride - cols == 2
+                    ? segment.get(terminator) == '\r' && segment.get(terminator + 1) == '\n'
+                    : segment.get(terminator) == '\n';
+            if (!aligned) {
+                throw new IllegalArgumentException("Board needs to have m x n dimension. Ensure all rows are of equal length.");
+            }
+        }
+    }
+
+    /**
+     * Reads a single byte of the file.
+     *
+     * @param channel the open channel of the board file
+     * @param offset the offset of the byte
+     * @return the byte at the offset
+     * @throws IOException if the file cannot be read
+     */
+    private static byte readByte(FileChannel channel, long offset) throws IOException {
+        return channel.map(FileChannel.MapMode.READ_ONLY, offset, 1).get(0);
+    }
+
+    /**
+     * Finds the offset of the first '\n' in the file.
+     *
+     * @param channel the open channel of the board file
+     * @param size the size of the file in bytes
+     * @return the offset of the first line terminator, or the file size if there is none
+     * @throws IOException if the file cannot be read
+     */
+    private static long findLineEnd(FileChannel channel, long size) throws IOException {
+        long offset = 0;
+        while (offset < size) {
+            long length = Math.min(Integer.MAX_VALUE, size - offset);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, offset, length);
+            for (int i = 0; i < length; i++) {
+                if (buffer.get(i) == '\n') {
+                    return offset + i;
+                }
+            }
+            offset += length;
+        }
+        return size;
+    }
+
+    /**
+     * Copies a rectangular region of the board onto the heap.
+     *
+     * @param rowStart the first row of the region (inclusive)
+     * @param rowEnd the last row of the region (exclusive)
+     * @param colStart the first column of the region (inclusive)
+     * @param colEnd the last column of the region (exclusive)
+     * @return the 2D character array holding the region
+     */
+    public char[][] copyRegion(int rowStart, int rowEnd, int colStart, int colEnd) {
+        char[][] region = new char[rowEnd - rowStart][colEnd - colStart];
+        for (int i = rowStart; i < rowEnd; i++) {
+            // Absolute reads don't touch the buffer position, so workers can share the segments
+            MappedByteBuffer segment = segments[i / rowsPerSegment];
+            int rowOffset = (int) ((i % rowsPerSegment) * stride);
+            for (int j = colStart; j < colEnd; j++) {
+                region[i - rowStart][j - colStart] = (char) segment.get(rowOffset + j);
+            }
+        }
+        return region;
+    }
+}
@@ -0,0 +1,70 @@
+package finalProject.wordSearch2;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import ledger.LoggedTest;
+
+// The segment size is package-private, so these tests live in the same package as MappedBoard
+public class MappedBoardTest extends LoggedTest {
+
+	private static final String[] ROWS = {"hogwarts", "arryponm", "rolegacy", "nutterxa", "lunamalf", "oyhedwig", "potterab", "ronweasl"};
+
+	private Path writeBoard(String... rows) throws IOException {
+		Path file = Files.createTempFile("board", ".txt");
+		file.toFile().deleteOnExit();
+		Files.write(file, Arrays.asList(rows));
+		return file;
+	}
+
+	private char[][] toBoard(String... rows) {
+		char[][] board = new char[rows.length][];
+		for (int i = 0; i < rows.length; i++) {
+			board[i] = rows[i].toCharArray();
+		}
+		return board;
+	}
+
+	// Each row takes 9 bytes, so these hold one row, one row, two rows, three rows and every row per segment
+	@Test
+	public void testSegmentedMapping() throws Exception {
+		Path file = writeBoard(ROWS);
+		char[][] board = toBoard(ROWS);
+
+		for (int segmentBytes : new int[] {1, 9, 20, 27, Integer.MAX_VALUE}) {
+			MappedBoard mapped = new MappedBoard(file, segmentBytes);
+			assertEquals("segment bytes " + segmentBytes, 8, mapped.rows);
+			assertEquals("segment bytes " + segmentBytes, 8, mapped.cols);
+			assertArrayEquals(board, mapped.copyRegion(0, 8, 0, 8));
+
+			// A region that starts and ends part way through a segment
+			char[][] expected = new char[5][];
+			for (int i = 0; i < 5; i++) {
+				expected[i] = Arrays.copyOfRange(board[i + 1], 2, 7);
+			}
+			assertArrayEquals(expected, mapped.copyRegion(1, 6, 2, 7));
+		}
+	}
+
+	// Tiles whose rows come from more than one segment find the same words as searching the whole board at once
+	@Test
+	public void testSegmentedSearch() throws Exception {
+		Path file = writeBoard(ROWS);
+		String[] words = {"hogwarts", "legacy", "hedwig", "malfoy", "luna", "harry", "ron", "owl", "potter"};
+
+		Set<String> expected = new HashSet<>(new WordSearch2(toBoard(ROWS), words).findWordsDFSWithTrie());
+		for (int segmentBytes : new int[] {1, 9, 20, 27}) {
+			Set<String> actual = new HashSet<>(new TiledWordSearch2(file, words, 3, 2, segmentBytes).findWords());
+			assertEquals("segment bytes " + segmentBytes, expected, actual);
+		}
+	}
+}
@@ -0,0 +1,397 @@
+package finalProject.wordSearch2;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A class representing an embeddable Word Search 2 solver service.
+ * Dictionaries are registered once by id and their Trie is shared by every search. Concurrent
+ * requests for the same board and dictionary are coalesced onto a single computation, and work
+ * is queued with a bounded capacity so that a saturated service rejects new boards straight away
+ * instead of piling up threads.
+ *
+ * The service can also be exposed over HTTP on localhost with {@link #start(int)}:
+ * POST /solve?dictionary=id with the board as the body, one row of lowercase letters per line.
+ * The words found are returned one per line. A saturated service answers 503 with a Retry-After header
+ * and a body larger than {@link #MAX_BODY_BYTES} is answered with 413. A client that takes longer than
+ * {@link #MAX_EXCHANGE_SECONDS} to send its request or read its response is disconnected.
+ */
+public class SolverService implements AutoCloseable {
+	/**
+	 * The largest request body the HTTP server reads, enough for a board of about 2000 x 2000 cells.
+	 */
+	public static final int MAX_BODY_BYTES = 4 * 1024 * 1024;
+
+	/**
+	 * The longest time in seconds the HTTP server gives a client to send its request or to read its response.
+	 * It is applied to every HttpServer in the process, unless sun.net.httpserver.maxReqTime or maxRspTime is already set.
+	 */
+	public static final int MAX_EXCHANGE_SECONDS = 30;
+
+	private final Map<String, Dictionary> DICTIONARIES = new ConcurrentHashMap<>();
+	private final Map<RequestKey, CompletableFuture<List<String>>> INFLIGHT = new ConcurrentHashMap<>();
+	private final ThreadPoolExecutor WORKERS;
+	private final int QUEUECAPACITY;
+	private final AtomicLong SEARCHES = new AtomicLong();
+	private HttpServer SERVER;
+	private ThreadPoolExecutor HANDLERS;
+	private ThreadPoolExecutor RESPONDERS;
+
+	/**
+	 * Constructor for the SolverService class.
+	 *
+	 * @param workerThreads the number of boards searched at the same time
+	 * @param queueCapacity the number of boards that may wait for a worker before new boards are rejected
+	 * @throws IllegalArgumentException if the thread count or queue capacity is invalid
+	 */
+	public SolverService(int workerThreads, int queueCapacity) throws IllegalArgumentException {
+	    if (workerThreads <= 0 || queueCapacity <= 0) {
+	        throw new IllegalArgumentException("Worker threads and queue capacity must be positive");
+	    }
+	    // The default abort policy rejects a board as soon as the queue is full
+	    WORKERS = new ThreadPoolExecutor(workerThreads, workerThreads, 0L, TimeUnit.MILLISECONDS,
+	            new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+	                Thread thread = new Thread(runnable, "word-search-solver");
+	                thread.setDaemon(true);
+	                return thread;
+	            });
+	    QUEUECAPACITY = queueCapacity;
+	}
+
+	/**
+	 * Registers a dictionary that boards can be searched against.
+	 * Registering an id again replaces its dictionary for new requests, searches already in flight keep the old one.
+	 *
+	 * @param id the id used by requests to refer to the dictionary
+	 * @param words the array of words in the dictionary
+	 * @throws IllegalArgumentException if the id is missing or the words array is invalid or contains invalid words
+	 */
+	public void registerDictionary(String id, String[] words) throws IllegalArgumentException {
+	    if (id == null || id.isEmpty()) {
+	        throw new IllegalArgumentException("Dictionary id is null or empty");
+	    }
+	    // Check the words array for duplicates and invalid words
+	    WordSearch2.validateWords(words);
+
+	    // Build the Trie once so every search against this dictionary can share it
+	    Trie trie = new Trie();
+	    for (String word : words) {
+	        trie.insert(word);
+	    }
+	    DICTIONARIES.put(id, new Dictionary(words.clone(), trie));
+	}
+
+	/**
+	 * Finds all the words of a registered dictionary in the board using depth-first search with a Trie.
+	 * If the same board is already being searched against the same dictionary, the caller joins that search.
+	 * Every caller gets its own future, so cancelling or completing it doesn't affect the other callers.
+	 *
+	 * @param board the 2D character array representing the board
+	 * @param dictionaryId the id of a registered dictionary
+	 * @return a future completed with the unmodifiable List of words found in the board
+	 * @throws IllegalArgumentException if the board is invalid or the dictionary is not registered
+	 * @throws RejectedExecutionException if the service is saturated or closed
+	 */
+	public CompletableFuture<List<String>> solve(char[][] board, String dictionaryId)
+	        throws IllegalArgumentException, RejectedExecutionException {
+	    WordSearch2.validateBoard(board);
+	    Dictionary dictionary = dictionaryId == null ? null : DICTIONARIES.get(dictionaryId);
+	    if (dictionary == null) {
+	        throw new IllegalArgumentException("Unknown dictionary: " + dictionaryId);
+	    }
+
+	    // Copy the board so the caller can't change it while it is queued, and use its contents as the key
+	    char[][] copy = new char[board.length][];
+	    for (int i = 0; i < board.length; i++) {
+	        copy[i] = board[i].clone();
+	    }
+
+	    // Join the search already in flight for this board, if there is one
+	    RequestKey requestKey = new RequestKey(dictionary, copy);
+	    CompletableFuture<List<String>> created = new CompletableFuture<>();
+	    CompletableFuture<List<String>> existing = INFLIGHT.putIfAbsent(requestKey, created);
+	    if (existing != null) {
+	        return existing.copy();
+	    }
+
+	    try {
+	        WORKERS.execute(() -> {
+	            SEARCHES.incrementAndGet();
+	            try {
+	                List<String> result = new WordSearch2(copy, dictionary.words, dictionary.trie).findWordsDFSWithTrie();
+	                // Remove the entry first so later requests start a fresh search
+	                INFLIGHT.remove(requestKey, created);
+	                created.complete(Collections.unmodifiableList(result));
+	            } catch (Throwable t) {
+	                INFLIGHT.remove(requestKey, created);
+	                created.completeExceptionally(t);
+	            }
+	        });
+	    } catch (RejectedExecutionException e) {
+	        // Fail anyone who joined in the meantime with the same signal
+	        INFLIGHT.remove(requestKey, created);
+	        created.completeExceptionally(e);
+	        throw e;
+	    }
+	    return created.copy();
+	}
+
+	/**
+	 * @return the number of searches started so far, requests that joined a search in flight are not counted
+	 */
+	public long searchCount() {
+	    return SEARCHES.get();
+	}
+
+	/**
+	 * Starts serving requests over HTTP on the loopback address.
+	 *
+	 * @param port the port to listen on, or 0 to pick a free port
+	 * @return the port the service is listening on
+	 * @throws IOException if the server cannot be started
+	 * @throws IllegalStateException if the server is already running
+	 */
+	public synchronized int start(int port) throws IOException, IllegalStateException {
+	    if (SERVER != null) {
+	        throw new IllegalStateException("Server is already running");
+	    }
+	    // Handlers only read the request and hand it to the workers, the responders write the response when the search completes.
+	    // Their queue is bounded too, so a burst of requests is turned away instead of piling up on the heap.
+	    HANDLERS = new ThreadPoolExecutor(Math.max(2, WORKERS.getCorePoolSize()), Math.max(2, WORKERS.getCorePoolSize()),
+	            0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(QUEUECAPACITY));
+	    // Responses are written here so a slow client never holds up a worker. A response can't be turned away once its
+	    // request was accepted, so this queue is unbounded, but it only ever holds one task per open exchange.
+	    RESPONDERS = new ThreadPoolExecutor(HANDLERS.getCorePoolSize(), HANDLERS.getCorePoolSize(),
+	            0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), runnable -> {
+	                Thread thread = new Thread(runnable, "word-search-responder");
+	                thread.setDaemon(true);
+	                return thread;
+	            });
+	    // A client that never sends its body would otherwise hold a handler thread forever.
+	    // The JDK server reads these limits once, so they must be set before the first server in the process is created.
+	    System.getProperties().putIfAbsent("sun.net.httpserver.maxReqTime", String.valueOf(MAX_EXCHANGE_SECONDS));
+	    System.getProperties().putIfAbsent("sun.net.httpserver.maxRspTime", String.valueOf(MAX_EXCHANGE_SECONDS));
+	    SERVER = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+	    // Without an executor the server calls the context on its dispatcher thread, which only hands the exchange on
+	    SERVER.createContext("/solve", this::dispatchSolve);
+	    SERVER.start();
+	    return SERVER.getAddress().getPort();
+	}
+
+	/**
+	 * Hands a /solve request to the handler threads, answering 503 when their queue is full.
+	 * This runs on the server's only dispatcher thread, so it must never block.
+	 *
+	 * @param exchange the HTTP request and response
+	 * @throws IOException if the response cannot be written
+	 */
+	private void dispatchSolve(HttpExchange exchange) throws IOException {
+	    try {
+	        HANDLERS.execute(() -> {
+	            try {
+	                handleSolve(exchange);
+	            } catch (IOException e) {
+	                exchange.close();
+	            }
+	        });
+	    } catch (RejectedExecutionException e) {
+	        // Closing the exchange reads the rest of the request body, which blocks on a client that never sends it.
+	        // A response without a body is finished as soon as its headers are written, and the server then drops the connection.
+	        exchange.getResponseHeaders().set("Retry-After", "1");
+	        exchange.sendResponseHeaders(503, -1);
+	    }
+	}
+
+	/**
+	 * Handles a POST /solve?dictionary=id request.
+	 *
+	 * @param exchange the HTTP request and response
+	 * @throws IOException if the response cannot be written
+	 */
+	private void handleSolve(HttpExchange exchange) throws IOException {
+	    if (!"POST".equals(exchange.getRequestMethod())) {
+	        exchange.getResponseHeaders().set("Allow", "POST");
+	        respond(exchange, 405, "Only POST is supported");
+	        return;
+	    }
+
+	    // Read at most one byte past the limit, so an oversized body is never held in full
+	    byte[] body = exchange.getRequestBody().readNBytes(MAX_BODY_BYTES + 1);
+	    if (body.length > MAX_BODY_BYTES) {
+	        respond(exchange, 413, "Request body is larger than " + MAX_BODY_BYTES + " bytes");
+	        return;
+	    }
+
+	    CompletableFuture<List<String>> result;
+	    try {
+	        String dictionaryId = queryParameter(exchange.getRequestURI().getRawQuery(), "dictionary");
+	        char[][] board = parseBoard(body);
+	        result = solve(board, dictionaryId);
+	    } catch (IllegalArgumentException e) {
+	        respond(exchange, 400, e.getMessage());
+	        return;
+	    } catch (RejectedExecutionException e) {
+	        exchange.getResponseHeaders().set("Retry-After", "1");
+	        respond(exchange, 503, "Solver is saturated, try again later");
+	        return;
+	    }
+
+	    result.whenCompleteAsync((words, error) -> {
+	        try {
+	            if (error == null) {
+	                respond(exchange, 200, String.join("\n", words));
+	            } else if (unwrap(error) instanceof RejectedExecutionException) {
+	                exchange.getResponseHeaders().set("Retry-After", "1");
+	                respond(exchange, 503, "Solver is saturated, try again later");
+	            } else {
+	                respond(exchange, 500, String.valueOf(unwrap(error).getMessage()));
+	            }
+	        } catch (IOException e) {
+	            exchange.close();
+	        }
+	    }, RESPONDERS);
+	}
+
+	/**
+	 * Reads a board from a request body with one row of the board per line.
+	 *
+	 * @param body the request body
+	 * @return the 2D character array representing the board
+	 */
+	private static char[][] parseBoard(byte[] body) {
+	    String text = new String(body, StandardCharsets.UTF_8);
+	    List<char[]> rows = new ArrayList<>();
+	    for (String line : text.split("\n")) {
+	        line = line.endsWith("\r") ? line.substring(0, line.length() - 1) : line;
+	        if (!line.isEmpty()) {
+	            rows.add(line.toCharArray());
+	        }
+	    }
+	    return rows.toArray(new char[0][]);
+	}
+
+	/**
+	 * Finds the value of a parameter in a query string.
+	 *
+	 * @param query the raw query string, may be null
+	 * @param name the name of the parameter
+	 * @return the value of the parameter, or null if it is missing
+	 */
+	private static String queryParameter(String query, String name) {
+	    if (query == null) {
+	        return null;
+	    }
+	    for (String pair : query.split("&")) {
+	        int equals = pair.indexOf('=');
+	        if (equals > 0 && pair.substring(0, equals).equals(name)) {
+	            return java.net.URLDecoder.decode(pair.substring(equals + 1), StandardCharsets.UTF_8);
+	        }
+	    }
+	    return null;
+	}
+
+	/**
+	 * Writes a plain text response and closes the exchange.
+	 *
+	 * @param exchange the HTTP request and response
+	 * @param status the HTTP status code
+	 * @param body the response body
+	 * @throws IOException if the response cannot be written
+	 */
+	private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+	    byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+	    exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+	    exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+	    try (OutputStream out = exchange.getResponseBody()) {
+	        out.write(bytes);
+	    }
+	}
+
+	/**
+	 * Removes the CompletionException wrapper added by dependent futures.
+	 *
+	 * @param error the error a future completed with
+	 * @return the underlying error
+	 */
+	private static Throwable unwrap(Throwable error) {
+	    return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+	}
+
+	/**
+	 * Stops the HTTP server, if it is running, and the workers. Searches that are already queued are abandoned.
+	 */
+	@Override
+	public synchronized void close() {
+	    if (SERVER != null) {
+	        SERVER.stop(0);
+	        HANDLERS.shutdownNow();
+	        RESPONDERS.shutdownNow();
+	        SERVER = null;
+	    }
+	    WORKERS.shutdownNow();
+	    // Queued searches will never run, so fail the callers waiting on them
+	    for (CompletableFuture<List<String>> pending : INFLIGHT.values()) {
+	        pending.completeExceptionally(new RejectedExecutionException("Solver service is closed"));
+	    }
+	    INFLIGHT.clear();
+	}
+
+	/**
+	 * The dictionary and board contents that identify a search, so identical requests can be coalesced.
+	 * The dictionary is compared by identity rather than by id, so a re-registered id never joins a search against its old words.
+	 */
+	private static final class RequestKey {
+	    final Dictionary dictionary;
+	    final char[][] board;
+	    final int hash;
+
+	    RequestKey(Dictionary dictionary, char[][] board) {
+	        this.dictionary = dictionary;
+	        this.board = board;
+	        this.hash = 31 * System.identityHashCode(dictionary) + Arrays.deepHashCode(board);
+	    }
+
+	    @Override
+	    public boolean equals(Object other) {
+	        if (!(other instanceof RequestKey)) {
+	            return false;
+	        }
+	        RequestKey key = (RequestKey) other;
+	        return hash == key.hash && dictionary == key.dictionary && Arrays.deepEquals(board, key.board);
+	    }
+
+	    @Override
+	    public int hashCode() {
+	        return hash;
+	    }
+	}
+
+	/**
+	 * A registered dictionary and the Trie built from its words.
+	 */
+	private static final class Dictionary {
+	    final String[] words;
+	    final Trie trie;
+
+	    Dictionary(String[] words, Trie trie) {
+	        this.words = words;
+	        this.trie = trie;
+	    }
+	}
+}
@@ -0,0 +1,149 @@
+package finalProject.wordSearch2;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A class representing a Word Search 2 puzzle whose board is too large to hold on the heap.
+ * The board is read from a memory-mapped file and split into tiles. Each tile is extended by a
+ * halo of (longest word length - 1) cells so that any word starting inside the tile fits in it.
+ * Searches only start from the tile's own cells, the tiles are searched in parallel and words
+ * found by more than one tile are only reported once.
+ */
+public class TiledWordSearch2 {
+	private final MappedBoard BOARD;
+	private final String[] WORDS;
+	private final Trie TRIEOBJ;
+	private final int TILESIZE;
+	private final int HALO;
+	private final int THREADS;
+
+	/**
+	 * Constructor for the TiledWordSearch2 class.
+	 *
+	 * @param boardFile the path of the board file, one row of the board per line
+	 * @param words the array of words to be found in the board
+	 * @param tileSize the number of rows and columns in each tile, not counting the halo
+	 * @param threads the number of tiles searched at the same time
+	 * @throws IOException if the board file cannot be read
+	 * @throws IllegalArgumentException if the board, words array, tile size or thread count is invalid
+	 */
+	public TiledWordSearch2(Path boardFile, String[] words, int tileSize, int threads) throws IOException, IllegalArgumentException {
+	    this(boardFile, words, tileSize, threads, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Constructor for the TiledWordSearch2 class that maps the board file in segments of at most the given size.
+	 *
+	 * @param boardFile the path of the board file, one row of the board per line
+	 * @param words the array of words to be found in the board
+	 * @param tileSize the number of rows and columns in each tile, not counting the halo
+	 * @param threads the number of tiles searched at the same time
+	 * @param segmentBytes the largest number of bytes mapped in one segment, at most Integer.MAX_VALUE
+	 * @throws IOException if the board file cannot be read
+	 * @throws IllegalArgumentException if the board, words array, tile size or thread count is invalid
+	 */
+	TiledWordSearch2(Path boardFile, String[] words, int tileSize, int threads, int segmentBytes) throws IOException, IllegalArgumentException {
+	    if (tileSize <= 0 || threads <= 0) {
+	        throw new IllegalArgumentException("Tile size and thread count must be positive");
+	    }
+	    // Check the words array for duplicates and invalid words
+	    WordSearch2.validateWords(words);
+
+	    BOARD = new MappedBoard(boardFile, segmentBytes);
+	    WORDS = words;
+	    TILESIZE = tileSize;
+	    THREADS = threads;
+
+	    // A word of length L reaches at most L - 1 cells away from the cell it starts in
+	    int longest = 0;
+	    for (String word : words) {
+	        longest = Math.max(longest, word.length());
+	    }
+	    HALO = longest - 1;
+
+	    // The Trie is built once and shared read-only by every tile
+	    TRIEOBJ = new Trie();
+	    for (String word : words) {
+	        TRIEOBJ.insert(word);
+	    }
+	}
+
+	/**
+	 * Finds all the words in the board by searching each tile using depth-first search with a Trie.
+	 *
+	 * @return a List of the words found in the board in no particular order, each reported once
+	 * @throws InterruptedException if the calling thread is interrupted while waiting for the tiles
+	 */
+	public List<String> findWords() throws InterruptedException {
+	    long tileRows = (BOARD.rows + (long) TILESIZE - 1) / TILESIZE;
+	    long tileCols = (BOARD.cols + (long) TILESIZE - 1) / TILESIZE;
+	    long tileCount = tileRows * tileCols;
+	    int threads = (int) Math.min(THREADS, tileCount);
+
+	    // Words found by more than one tile are only kept once
+	    Set<String> result = ConcurrentHashMap.newKeySet();
+	    AtomicLong nextTile = new AtomicLong();
+	    ExecutorService executor = Executors.newFixedThreadPool(threads);
+	    try {
+	        // Each worker takes the next tile once it is done with the last, so at most one tile per thread is ever in flight
+	        List<Future<?>> workers = new ArrayList<>();
+	        for (int i = 0; i < threads; i++) {
+	            workers.add(executor.submit(() -> {
+	                try {
+	                    // shutdownNow() interrupts the workers when the caller gives up, so they stop after their current tile
+	                    for (long tile = nextTile.getAndIncrement(); tile < tileCount && !Thread.currentThread().isInterrupted();
+	                            tile = nextTile.getAndIncrement()) {
+	                        result.addAll(searchTile((int) (tile / tileCols * TILESIZE), (int) (tile % tileCols * TILESIZE)));
+	                    }
+	                } catch (RuntimeException | Error e) {
+	                    // Stop the other workers from taking more tiles
+	                    nextTile.set(tileCount);
+	                    throw e;
+	                }
+	            }));
+	        }
+
+	        for (Future<?> worker : workers) {
+	            try {
+	                worker.get();
+	            } catch (ExecutionException e) {
+	                if (e.getCause() instanceof RuntimeException) {
+	                    throw (RuntimeException) e.getCause();
+	                }
+	                throw new IllegalStateException("Tile search failed", e.getCause());
+	            }
+	        }
+	        return new ArrayList<>(result);
+	    } finally {
+	        executor.shutdownNow();
+	    }
+	}
+
+	/**
+	 * Searches a single tile extended by its halo.
+	 *
+	 * @param row the first row of the tile
+	 * @param col the first column of the tile
+	 * @return a List of the words found in the tile
+	 */
+	private List<String> searchTile(int row, int col) {
+	    int rowStart = Math.max(0, row - HALO);
+	    int rowEnd = (int) Math.min(BOARD.rows, (long) row + TILESIZE + HALO);
+	    int colStart = Math.max(0, col - HALO);
+	    int colEnd = (int) Math.min(BOARD.cols, (long) col + TILESIZE + HALO);
+
+	    char[][] tile = BOARD.copyRegion(rowStart, rowEnd, colStart, colEnd);
+	    // Only the tile's own cells start a search, the halo is there for paths to run into
+	    int coreRowEnd = (int) Math.min(BOARD.rows, (long) row + TILESIZE) - rowStart;
+	    int coreColEnd = (int) Math.min(BOARD.cols, (long) col + TILESIZE) - colStart;
+	    return new WordSearch2(tile, WORDS, TRIEOBJ).findWordsDFSWithTrie(row - rowStart, coreRowEnd, col - colStart, coreColEnd);
+	}
+}
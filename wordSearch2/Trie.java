@@ -0,0 +1,80 @@
+package finalProject.wordSearch2;
+
+/**
+ * A class representing a Trie data structure.
+ */
+class Trie {
+    TrieNode root; // The root node of the Trie
+
+    /**
+     * Constructor for the Trie class.
+     */
+    public Trie() {
+        root = new TrieNode();
+    }
+
+    /**
+     * Inserts a word into the Trie.
+     * 
+     * @param word the word to be inserted
+     */
+    public void insert(String word) {
+        TrieNode node = root;
+        // Traverse the Trie using the characters in the word
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            // If the current node doesn't have a child node with the current character, create one
+            if (!node.children.containsKey(c)) {
+                node.children.put(c, new TrieNode());
+            }
+            // Move down the Trie to the child node with the current character
+            node = node.children.get(c);
+        }
+        // Mark the final node as the end of a word
+        node.isEndOfWord = true;
+    }
+
+    /**
+     * Searches for a word in the Trie.
+     * 
+     * @param word the word to be searched for
+     * @return true if the word is found, false otherwise
+     */
+    public boolean search(String word) {
+        TrieNode node = root;
+        // Traverse the Trie using the characters in the word
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            // If the current node doesn't have a child node with the current character, the word isn't in the Trie
+            if (!node.children.containsKey(c)) {
+                return false;
+            }
+            // Move down the Trie to the child node with the current character
+            node = node.children.get(c);
+        }
+        // If the final node is marked as the end of a word, the word is in the Trie
+        return node.isEndOfWord;
+    }
+
+    /**
+     * Checks if a prefix is a prefix of any word in the Trie.
+     * 
+     * @param prefix the prefix to be checked
+     * @return true if the prefix is a prefix of any word in the Trie, false otherwise
+     */
+    public boolean startsWith(String prefix) {
+        TrieNode node = root;
+        // Traverse the Trie using the characters in the prefix
+        for (int i = 0; i < prefix.length(); i++) {
+            char c = prefix.charAt(i);
+            // If the current node doesn't have a child node with the current character, the prefix isn't a prefix of any word in the Trie
+            if (!node.children.containsKey(c)) {
+                return false;
+            }
+            // Move down the Trie to the child node with the current character
+            node = node.children.get(c);
+        }
+        // The prefix is a prefix of some word in the Trie if it reaches a node marked as the end of a word or if it has child nodes
+        return node.isEndOfWord || !node.children.isEmpty();
+    }
+}
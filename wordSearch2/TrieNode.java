@@ -0,0 +1,19 @@
+package finalProject.wordSearch2;
+
+import java.util.*;
+
+/**
+ * A class representing a node in the Trie data structure.
+ */
+class TrieNode {
+    Map<Character, TrieNode> children; // A map of child nodes keyed by their characters
+    boolean isEndOfWord; // A boolean flag indicating whether the node represents the end of a word
+
+    /**
+     * Constructor for the TrieNode class.
+     */
+    public TrieNode() {
+        children = new HashMap<>();
+        isEndOfWord = false;
+    }
+}
@@ -2,101 +2,6 @@ package finalProject.wordSearch2;
 
 import java.util.*;
 
-/**
- * A class representing a node in the Trie data structure.
- */
-class TrieNode {
-    Map<Character, TrieNode> children; // A map of child nodes keyed by their characters
-    boolean isEndOfWord; // A boolean flag indicating whether the node represents the end of a word
-
-    /**
-     * Constructor for the TrieNode class.
-     */
-    public TrieNode() {
-        children = new HashMap<>();
-        isEndOfWord = false;
-    }
-}
-
-/**
- * A class representing a Trie data structure.
- */
-class Trie {
-    TrieNode root; // The root node of the Trie
-
-    /**
-     * Constructor for the Trie class.
-     */
-    public Trie() {
-        root = new TrieNode();
-    }
-
-    /**
-     * Inserts a word into the Trie.
-     * 
-     * @param word the word to be inserted
-     */
-    public void insert(String word) {
-        TrieNode node = root;
-        // Traverse the Trie using the characters in the word
-        for (int i = 0; i < word.length(); i++) {
-            char c = word.charAt(i);
-            // If the current node doesn't have a child node with the current character, create one
-            if (!node.children.containsKey(c)) {
-                node.children.put(c, new TrieNode());
-            }
-            // Move down the Trie to the child node with the current character
-            node = node.children.get(c);
-        }
-        // Mark the final node as the end of a word
-        node.isEndOfWord = true;
-    }
-
-    /**
-     * Searches for a word in the Trie.
-     * 
-     * @param word the word to be searched for
-     * @return true if the word is found, false otherwise
-     */
-    public boolean search(String word) {
-        TrieNode node = root;
-        // Traverse the Trie using the characters in the word
-        for (int i = 0; i < word.length(); i++) {
-            char c = word.charAt(i);
-            // If the current node doesn't have a child node with the current character, the word isn't in the Trie
-            if (!node.children.containsKey(c)) {
-                return false;
-            }
-            // Move down the Trie to the child node with the current character
-            node = node.children.get(c);
-        }
-        // If the final node is marked as the end of a word, the word is in the Trie
-        return node.isEndOfWord;
-    }
-
-    /**
-     * Checks if a prefix is a prefix of any word in the Trie.
-     * 
-     * @param prefix the prefix to be checked
-     * @return true if the prefix is a prefix of any word in the Trie, false otherwise
-     */
-    public boolean startsWith(String prefix) {
-        TrieNode node = root;
-        // Traverse the Trie using the characters in the prefix
-        for (int i = 0; i < prefix.length(); i++) {
-            char c = prefix.charAt(i);
-            // If the current node doesn't have a child node with the current character, the prefix isn't a prefix of any word in the Trie
-            if (!node.children.containsKey(c)) {
-                return false;
-            }
-            // Move down the Trie to the child node with the current character
-            node = node.children.get(c);
-        }
-        // The prefix is a prefix of some word in the Trie if it reaches a node marked as the end of a word or if it has child nodes
-        return node.isEndOfWord || !node.children.isEmpty();
-    }
-}
-
 /**
  * A class representing a Word Search 2 puzzle.
  */
@@ -116,32 +21,81 @@ public class WordSearch2 {
 	 */
 	public WordSearch2(char[][] board, String[] words) throws IllegalArgumentException {
 	    // Check if the board or words array is invalid
-	    if (board == null || board.length == 0 || board[0].length == 0 || words == null || words.length == 0) {
+	    if (words == null || words.length == 0) {
 	        throw new IllegalArgumentException("Invalid board or words array");
 	    }
+	    validateBoard(board);
 
-	    // Check if the words array contains duplicates
-	    Set<String> uniqueWords = new HashSet<>(Arrays.asList(words));
-	    if (uniqueWords.size() != words.length) {
-	        throw new IllegalArgumentException("The words searched for must all be unique");
+	    // Initialize class variables
+	    ROWS = board.length;
+	    COLS = board[0].length;
+	    BOARD = board;
+	    WORDS = words;
+
+	    // Check the words array for duplicates and invalid words
+	    validateWords(WORDS);
+
+	    // Create a new Trie data structure and fill it with the words in the dictionary
+	    TRIEOBJ = new Trie();
+	    fillTrie(words);
+	}
+
+	/**
+	 * Package-private constructor used by {@link TiledWordSearch2} and {@link SolverService}.
+	 * The board and words are assumed to be validated already and the Trie may be shared
+	 * between searches, so it must not be modified while a search is running.
+	 * 
+	 * @param board the 2D character array representing the board
+	 * @param words the array of words to be found in the board
+	 * @param trie the Trie data structure already filled with the words
+	 */
+	WordSearch2(char[][] board, String[] words, Trie trie) {
+	    ROWS = board.length;
+	    COLS = board[0].length;
+	    BOARD = board;
+	    WORDS = words;
+	    TRIEOBJ = trie;
+	}
+
+	/**
+	 * Checks that the board is non-empty and has m x n dimension.
+	 * 
+	 * @param board the 2D character array representing the board
+	 * @throws IllegalArgumentException if the board is empty or its rows are of unequal length
+	 */
+	static void validateBoard(char[][] board) throws IllegalArgumentException {
+	    if (board == null || board.length == 0 || board[0] == null || board[0].length == 0) {
+	        throw new IllegalArgumentException("Invalid board or words array");
 	    }
-	    
+
 	    // Check if the board has equal row lengths
 	    int rowLength = board[0].length;
 	    for (int i = 1; i < board.length; i++) {
-	        if (board[i].length != rowLength) {
+	        if (board[i] == null || board[i].length != rowLength) {
 	            throw new IllegalArgumentException("Board needs to have m x n dimension. Ensure all rows are of equal length.");
 	        }
 	    }
+	}
 
-	    // Initialize class variables
-	    ROWS = board.length;
-	    COLS = board[0].length;
-	    BOARD = board;
-	    WORDS = words;
+	/**
+	 * Checks that the words array is non-empty and only contains unique, lowercase words.
+	 * 
+	 * @param words the array of words to be found in the board
+	 * @throws IllegalArgumentException if the words array is invalid or contains invalid words
+	 */
+	static void validateWords(String[] words) throws IllegalArgumentException {
+	    if (words == null || words.length == 0) {
+	        throw new IllegalArgumentException("Invalid board or words array");
+	    }
 
+	    // Check if the words array contains duplicates
+	    Set<String> uniqueWords = new HashSet<>(Arrays.asList(words));
+	    if (uniqueWords.size() != words.length) {
+	        throw new IllegalArgumentException("The words searched for must all be unique");
+	    }
+	    
 	    // Check if the words array contains invalid words
-	    for (String word : WORDS) {
+	    for (String word : words) {
 	        if (word == null || word.isEmpty()) {
 	            throw new IllegalArgumentException("Invalid word, is null or empty");
 	        }
@@ -155,10 +109,6 @@ public class WordSearch2 {
 	            throw new IllegalArgumentException("Words may not contain uppercase letters");
 	        }
 	    }
-	    
-	    // Create a new Trie data structure and fill it with the words in the dictionary
-	    TRIEOBJ = new Trie();
-	    fillTrie(words);
 	}
 
 	/**
@@ -238,14 +188,28 @@ public class WordSearch2 {
 	 * @return a List of words found in the board
 	 */
 	public List<String> findWordsDFSWithTrie() {
+	    return findWordsDFSWithTrie(0, ROWS, 0, COLS);
+	}
+
+	/**
+	 * Finds the words in the character board that start inside a window of cells, using depth-first
+	 * search with a Trie data structure. Paths may still leave the window to finish a word.
+	 * 
+	 * @param rowStart the first row of the window (inclusive)
+	 * @param rowEnd the last row of the window (exclusive)
+	 * @param colStart the first column of the window (inclusive)
+	 * @param colEnd the last column of the window (exclusive)
+	 * @return a List of words found in the board
+	 */
+	List<String> findWordsDFSWithTrie(int rowStart, int rowEnd, int colStart, int colEnd) {
 	    List<String> result = new ArrayList<>();
 
 	    // Create a 2D boolean array to keep track of visited cells
 	    boolean[][] visited = new boolean[ROWS][COLS];
 	    
-	    // For each cell in the board, perform DFS with Trie starting from that cell
-	    for (int i = 0; i < ROWS; i++) {
-	        for (int j = 0; j < COLS; j++) {
+	    // For each cell in the window, perform DFS with Trie starting from that cell
+	    for (int i = rowStart; i < rowEnd; i++) {
+	        for (int j = colStart; j < colEnd; j++) {
 	            dfsWithTrie(BOARD, visited, i, j, "", TRIEOBJ, result);
 	        }
 	    }
@@ -0,0 +1,64 @@
+package finalProject.wordSearch2.test;
+
+import org.junit.Test;
+import finalProject.wordSearch2.LatencyHistogram;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import ledger.LoggedTest;
+
+public class LatencyHistogramTest extends LoggedTest {
+
+	@Test
+	public void testEmptyHistogram() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		assertEquals(0, histogram.count());
+		assertEquals(0, histogram.percentile(99));
+		assertEquals(0, histogram.min());
+		assertEquals(0, histogram.max());
+	}
+
+	// Small values are counted exactly
+	@Test
+	public void testSmallValuesAreExact() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		for (long value = 1; value <= 100; value++) {
+			histogram.record(value);
+		}
+		assertEquals(100, histogram.count());
+		assertEquals(50, histogram.percentile(50));
+		assertEquals(99, histogram.percentile(99));
+		assertEquals(100, histogram.percentile(100));
+		assertEquals(1, histogram.min());
+		assertEquals(50.5, histogram.mean(), 0.0001);
+	}
+
+	// Large values are reported within 1% above the true value
+	@Test
+	public void testLargeValuesWithinOnePercent() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		for (long value = 1; value <= 100000; value++) {
+			histogram.record(value * 1000);
+		}
+		double[] percentiles = {50, 99, 99.9};
+		long[] expected = {50000000L, 99000000L, 99900000L};
+		for (int i = 0; i < percentiles.length; i++) {
+			long actual = histogram.percentile(percentiles[i]);
+			long truth = expected[i];
+			assertTrue("p" + percentiles[i] + " was " + actual, actual >= truth && actual <= truth * 1.01);
+		}
+		assertEquals(100000000L, histogram.max());
+	}
+
+	@Test
+	public void testInvalidPercentile() {
+		try {
+			new LatencyHistogram().percentile(101);
+			fail("Expected IllegalArgumentException but no exception was thrown");
+		} catch (IllegalArgumentException e) {
+			assertEquals("Percentile must be between 0 and 100", e.getMessage());
+		}
+	}
+}
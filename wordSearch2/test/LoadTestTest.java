@@ -0,0 +1,71 @@
+package finalProject.wordSearch2.test;
+
+import org.junit.Test;
+import finalProject.wordSearch2.LoadTest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import ledger.LoggedTest;
+
+public class LoadTestTest extends LoggedTest {
+
+	@Test
+	public void testClosedLoopRun() throws Exception {
+		LoadTest.Options options = LoadTest.Options.parse(new String[] {
+				"--threads=2", "--warmup=0", "--duration=0.3", "--pool=8" });
+		LoadTest.Report report = new LoadTest(options).run();
+
+		assertTrue(report.latency.count() > 0);
+		assertEquals(0, report.errors);
+		assertTrue(report.wordsFound > 0);
+		assertTrue(report.latency.percentile(50) <= report.latency.percentile(99));
+		assertTrue(report.toJson().contains("\"p999\": "));
+	}
+
+	// At a fixed arrival rate the number of requests follows the rate, not the speed of the solver
+	@Test
+	public void testOpenLoopRun() throws Exception {
+		LoadTest.Options options = LoadTest.Options.parse(new String[] {
+				"--threads=2", "--rate=100", "--warmup=0", "--duration=0.5", "--method=backtrackingTrie" });
+		LoadTest.Report report = new LoadTest(options).run();
+
+		assertEquals(50, report.latency.count());
+		assertEquals(0, report.errors);
+	}
+
+	@Test
+	public void testUnknownOption() {
+		try {
+			LoadTest.Options.parse(new String[] { "--hogwarts=1" });
+			fail("Expected IllegalArgumentException but no exception was thrown");
+		} catch (IllegalArgumentException e) {
+			assertEquals("Unknown option: hogwarts", e.getMessage());
+		}
+	}
+
+	// NaN and Infinity would be written into the report as invalid JSON
+	@Test
+	public void testNonFiniteValues() {
+		String[] invalid = { "--rate=NaN", "--rate=Infinity", "--warmup=NaN", "--duration=NaN", "--duration=Infinity" };
+		for (String option : invalid) {
+			try {
+				LoadTest.Options.parse(new String[] { option });
+				fail("Expected IllegalArgumentException for " + option);
+			} catch (IllegalArgumentException e) {
+				assertEquals("Rate, warmup and duration must be finite numbers", e.getMessage());
+			}
+		}
+	}
+
+	@Test
+	public void testUnknownMethod() {
+		try {
+			LoadTest.Options.parse(new String[] { "--method=bruteForce" });
+			fail("Expected IllegalArgumentException but no exception was thrown");
+		} catch (IllegalArgumentException e) {
+			assertEquals("Method must be backtrackingTrie, dfsTrie or dfsSet", e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,257 @@
+package finalProject.wordSearch2.test;
+
+import org.junit.Test;
+import finalProject.wordSearch2.SolverService;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+
+import ledger.LoggedTest;
+
+public class SolverServiceTest extends LoggedTest {
+
+	private static final char[][] BOARD = {
+		    {'h', 'a', 'r', 'r'},
+		    {'e', 'n', 'a', 'y'},
+		    {'r', 'o', 't', 'i'},
+		    {'l', 'a', 'n', 'e'}
+		};
+	private static final String[] WORDS = {"harry", "potter", "hermione", "ron", "neville", "luna"};
+
+	// A board of only 'a' takes over a second to search for a word of many 'a's that is never found
+	private static char[][] slowBoard(char last) {
+		char[][] board = new char[6][6];
+		for (char[] row : board) {
+			Arrays.fill(row, 'a');
+		}
+		board[5][5] = last;
+		return board;
+	}
+
+	@Test
+	public void testSolveBasic() throws Exception {
+		try (SolverService service = new SolverService(2, 4)) {
+			service.registerDictionary("hogwarts", WORDS);
+			List<String> actual = service.solve(BOARD, "hogwarts").get();
+			assertEquals(Arrays.asList("harry", "ron"), actual);
+		}
+	}
+
+	@Test
+	public void testUnknownDictionary() {
+		try (SolverService service = new SolverService(1, 1)) {
+			service.solve(BOARD, "azkaban");
+			fail("Expected IllegalArgumentException but no exception was thrown");
+		} catch (IllegalArgumentException e) {
+			assertEquals("Unknown dictionary: azkaban", e.getMessage());
+		}
+	}
+
+	// Identical boards in flight share one search, and a full queue rejects new boards
+	@Test
+	public void testCoalescingAndBackpressure() throws Exception {
+		try (SolverService service = new SolverService(1, 1)) {
+			service.registerDictionary("slow", new String[] {"aaaaaaaaaaaaaab"});
+
+			CompletableFuture<List<String>> running = service.solve(slowBoard('a'), "slow");
+			CompletableFuture<List<String>> runningJoined = service.solve(slowBoard('a'), "slow");
+
+			CompletableFuture<List<String>> queued = service.solve(slowBoard('c'), "slow");
+			CompletableFuture<List<String>> queuedJoined = service.solve(slowBoard('c'), "slow");
+			try {
+				service.solve(slowBoard('d'), "slow");
+				fail("Expected RejectedExecutionException but no exception was thrown");
+			} catch (RejectedExecutionException e) {
+				// Expected, the only worker and the only queue slot are taken
+			}
+
+			assertEquals(Arrays.asList(), running.get());
+			assertEquals(Arrays.asList(), runningJoined.get());
+			assertEquals(Arrays.asList(), queued.get());
+			assertEquals(Arrays.asList(), queuedJoined.get());
+			assertEquals(2, service.searchCount());
+		}
+	}
+
+	// Cancelling one caller's future leaves the callers that joined the same search alone
+	@Test
+	public void testCancelDoesNotAffectJoinedCallers() throws Exception {
+		try (SolverService service = new SolverService(1, 1)) {
+			service.registerDictionary("slow", new String[] {"aaaaaaaaaaaaaab"});
+
+			CompletableFuture<List<String>> first = service.solve(slowBoard('a'), "slow");
+			CompletableFuture<List<String>> second = service.solve(slowBoard('a'), "slow");
+			first.cancel(true);
+			CompletableFuture<List<String>> later = service.solve(slowBoard('a'), "slow");
+
+			assertTrue(first.isCancelled());
+			assertEquals(Arrays.asList(), second.get());
+			assertEquals(Arrays.asList(), later.get());
+			assertEquals(1, service.searchCount());
+		}
+	}
+
+	// A request against a re-registered dictionary doesn't join a search against the old words
+	@Test
+	public void testReregisteredDictionaryIsNotCoalesced() throws Exception {
+		try (SolverService service = new SolverService(1, 2)) {
+			service.registerDictionary("slow", new String[] {"aaaaaaaaaaaaaab"});
+			CompletableFuture<List<String>> old = service.solve(slowBoard('c'), "slow");
+
+			service.registerDictionary("slow", new String[] {"c"});
+			CompletableFuture<List<String>> replaced = service.solve(slowBoard('c'), "slow");
+
+			assertEquals(Arrays.asList(), old.get());
+			assertEquals(Arrays.asList("c"), replaced.get());
+			assertEquals(2, service.searchCount());
+		}
+	}
+
+	// Boards whose rows would read the same when joined by '\n' are still different searches
+	@Test
+	public void testDifferentBoardsAreNotCoalesced() throws Exception {
+		try (SolverService service = new SolverService(1, 2)) {
+			service.registerDictionary("slow", new String[] {"aaaaaaaaaaaaaab"});
+			service.registerDictionary("letters", new String[] {"ab", "ac"});
+
+			// Keep the only worker busy so both boards are in flight together
+			service.solve(slowBoard('a'), "slow");
+			CompletableFuture<List<String>> oneRow = service.solve(new char[][] {{'a', 'b', '\n', 'c', 'd'}}, "letters");
+			CompletableFuture<List<String>> twoRows = service.solve(new char[][] {{'a', 'b'}, {'c', 'd'}}, "letters");
+
+			assertEquals(Arrays.asList("ab"), oneRow.get());
+			assertEquals(Arrays.asList("ac", "ab"), twoRows.get());
+			assertEquals(3, service.searchCount());
+		}
+	}
+
+	// Closing the service fails the callers whose boards never left the queue
+	@Test
+	public void testCloseFailsQueuedSearches() throws Exception {
+		CompletableFuture<List<String>> queued;
+		try (SolverService service = new SolverService(1, 1)) {
+			service.registerDictionary("slow", new String[] {"aaaaaaaaaaaaaab"});
+			service.solve(slowBoard('a'), "slow");
+			queued = service.solve(slowBoard('b'), "slow");
+		}
+		try {
+			queued.get();
+			fail("Expected ExecutionException but no exception was thrown");
+		} catch (ExecutionException e) {
+			assertTrue(e.getCause() instanceof RejectedExecutionException);
+		}
+	}
+
+	@Test
+	public void testHttpSolve() throws Exception {
+		try (SolverService service = new SolverService(2, 4)) {
+			service.registerDictionary("hogwarts", WORDS);
+			int port = service.start(0);
+
+			HttpURLConnection ok = post(port, "hogwarts", "harr\nenay\nroti\nlane\n");
+			assertEquals(200, ok.getResponseCode());
+			assertEquals("harry\nron", read(ok.getInputStream()));
+
+			HttpURLConnection unknown = post(port, "azkaban", "harr\nenay\nroti\nlane\n");
+			assertEquals(400, unknown.getResponseCode());
+			assertEquals("Unknown dictionary: azkaban", read(unknown.getErrorStream()));
+
+			HttpURLConnection uneven = post(port, "hogwarts", "abc\ndefg\nhij\n");
+			assertEquals(400, uneven.getResponseCode());
+		}
+	}
+
+	// Bodies over the limit are refused without reading them in full
+	@Test
+	public void testHttpBodyTooLarge() throws Exception {
+		try (SolverService service = new SolverService(1, 1)) {
+			service.registerDictionary("hogwarts", WORDS);
+			int port = service.start(0);
+
+			char[] row = new char[SolverService.MAX_BODY_BYTES + 1];
+			Arrays.fill(row, 'a');
+			HttpURLConnection tooLarge = post(port, "hogwarts", new String(row));
+			assertEquals(413, tooLarge.getResponseCode());
+		}
+	}
+
+	// Clients that send their headers but never their body must not stop the server from turning others away
+	@Test
+	public void testHttpStalledClientsDuringSaturation() throws Exception {
+		try (SolverService service = new SolverService(1, 1)) {
+			service.registerDictionary("hogwarts", WORDS);
+			int port = service.start(0);
+
+			List<Socket> stalled = new ArrayList<>();
+			try {
+				// Both handler threads and their one queue slot wait for bodies that never arrive
+				for (int i = 0; i < 3; i++) {
+					stalled.add(stall(port));
+				}
+				Thread.sleep(500);
+
+				// The next stalled client is rejected without waiting for its body
+				Socket rejected = stall(port);
+				stalled.add(rejected);
+				BufferedReader reader = new BufferedReader(new InputStreamReader(rejected.getInputStream(), StandardCharsets.US_ASCII));
+				assertEquals("HTTP/1.1 503 Service Unavailable", reader.readLine());
+
+				HttpURLConnection later = post(port, "hogwarts", "harr\nenay\nroti\nlane\n");
+				assertEquals(503, later.getResponseCode());
+				assertEquals("1", later.getHeaderField("Retry-After"));
+			} finally {
+				for (Socket socket : stalled) {
+					socket.close();
+				}
+			}
+		}
+	}
+
+	private Socket stall(int port) throws Exception {
+		Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+		socket.setSoTimeout(5000);
+		OutputStream out = socket.getOutputStream();
+		out.write(("POST /solve?dictionary=hogwarts HTTP/1.1\r\nHost: localhost\r\nContent-Length: 100\r\n\r\n")
+				.getBytes(StandardCharsets.US_ASCII));
+		out.flush();
+		return socket;
+	}
+
+	private HttpURLConnection post(int port, String dictionary, String board) throws Exception {
+		URL url = new URL("http://localhost:" + port + "/solve?dictionary=" + dictionary);
+		HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+		// A server stuck on another client fails the test instead of hanging it
+		connection.setReadTimeout(5000);
+		connection.setRequestMethod("POST");
+		connection.setDoOutput(true);
+		try (OutputStream out = connection.getOutputStream()) {
+			out.write(board.getBytes(StandardCharsets.UTF_8));
+		}
+		return connection;
+	}
+
+	private String read(InputStream in) throws Exception {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		in.transferTo(bytes);
+		in.close();
+		return bytes.toString(StandardCharsets.UTF_8.name());
+	}
+}
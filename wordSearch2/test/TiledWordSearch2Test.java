@@ -0,0 +1,111 @@
+package finalProject.wordSearch2.test;
+
+import org.junit.Test;
+import finalProject.wordSearch2.TiledWordSearch2;
+import finalProject.wordSearch2.WordSearch2;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import ledger.LoggedTest;
+
+public class TiledWordSearch2Test extends LoggedTest {
+
+	private Path writeBoard(String... rows) throws IOException {
+		Path file = Files.createTempFile("board", ".txt");
+		file.toFile().deleteOnExit();
+		Files.write(file, Arrays.asList(rows));
+		return file;
+	}
+
+	@Test
+	public void testFindWordsBasic() throws Exception {
+		Path file = writeBoard("harr", "enay", "roti", "lane");
+		String[] words = {"harry", "potter", "hermione", "ron", "neville", "luna"};
+
+		TiledWordSearch2 ws = new TiledWordSearch2(file, words, 2, 2);
+		List<String> actual = ws.findWords();
+
+		assertEquals(new HashSet<>(Arrays.asList("harry", "ron")), new HashSet<>(actual));
+		// Words found in more than one halo are only reported once
+		assertEquals(2, actual.size());
+	}
+
+	// Every tile size must find the same words as searching the whole board at once
+	@Test
+	public void testMatchesWholeBoardSearch() throws Exception {
+		String[] rows = {"hogwarts", "arryponm", "rolegacy", "nutterxa", "lunamalf", "oyhedwig"};
+		char[][] board = new char[rows.length][];
+		for (int i = 0; i < rows.length; i++) {
+			board[i] = rows[i].toCharArray();
+		}
+		String[] words = {"hogwarts", "legacy", "hedwig", "malfoy", "luna", "harry", "ron", "owl"};
+		Path file = writeBoard(rows);
+
+		Set<String> expected = new HashSet<>(new WordSearch2(board, words).findWordsDFSWithTrie());
+		for (int tileSize = 1; tileSize <= 8; tileSize++) {
+			Set<String> actual = new HashSet<>(new TiledWordSearch2(file, words, tileSize, 4).findWords());
+			assertEquals("tile size " + tileSize, expected, actual);
+		}
+	}
+
+	//Boards must be m x n
+	@Test
+	public void testUnequalRowLengths() throws Exception {
+		Path file = writeBoard("abc", "defg", "hij");
+		String[] words = { "abc", "def", "ghi" };
+		try {
+			new TiledWordSearch2(file, words, 2, 1);
+			fail("Expected IllegalArgumentException but no exception was thrown");
+		} catch (IllegalArgumentException e) {
+			assertEquals("Board needs to have m x n dimension. Ensure all rows are of equal length.", e.getMessage());
+		}
+	}
+
+	// Rows of the wrong length are rejected even when the file size fits a whole number of rows
+	@Test
+	public void testMisalignedRows() throws Exception {
+		Path file = writeBoard("abc", "de", "fghi");
+		String[] words = { "abc", "ed" };
+		try {
+			new TiledWordSearch2(file, words, 2, 1);
+			fail("Expected IllegalArgumentException but no exception was thrown");
+		} catch (IllegalArgumentException e) {
+			assertEquals("Board needs to have m x n dimension. Ensure all rows are of equal length.", e.getMessage());
+		}
+	}
+
+	// Boards written with "\r\n" line endings read the same as boards written with "\n"
+	@Test
+	public void testCarriageReturnLineEndings() throws Exception {
+		Path file = Files.createTempFile("board", ".txt");
+		file.toFile().deleteOnExit();
+		Files.write(file, "harr\r\nenay\r\nroti\r\nlane".getBytes(StandardCharsets.US_ASCII));
+		String[] words = {"harry", "potter", "hermione", "ron", "neville", "luna"};
+
+		List<String> actual = new TiledWordSearch2(file, words, 2, 2).findWords();
+		assertEquals(new HashSet<>(Arrays.asList("harry", "ron")), new HashSet<>(actual));
+	}
+
+	//Tiles need at least one cell and one worker
+	@Test
+	public void testInvalidTileSize() throws Exception {
+		Path file = writeBoard("ab", "cd");
+		String[] words = { "ab" };
+		try {
+			new TiledWordSearch2(file, words, 0, 1);
+			fail("Expected IllegalArgumentException but no exception was thrown");
+		} catch (IllegalArgumentException e) {
+			assertEquals("Tile size and thread count must be positive", e.getMessage());
+		}
+	}
+}